@@ -6,7 +6,7 @@ import static java.util.List.*;
 
 public class ContextConfig {
 
-    private final Map<Class<?>, ConstructionProvider<?>> providers = new HashMap<>();
+    private final Map<Class<?>, ConstructionProvider<?>> providers = new IdentityHashMap<>();
 
     public <T> void bind(Class<T> type, T instance) {
         providers.put(type, context -> instance);
@@ -19,9 +19,11 @@ public class ContextConfig {
 
 
     public Context getContext() {
+        Set<Class<?>> checked = Collections.newSetFromMap(new IdentityHashMap<>());
         providers.keySet()
-                .forEach(component -> checkDependencies(component, new Stack<>()));
+                .forEach(component -> checkDependencies(component, new Stack<>(), checked));
 
+        Map<Class<?>, ConstructionProvider<?>> providers = new IdentityHashMap<>(this.providers);
         return new Context() {
             @Override
             public <T> Optional<T> get(Class<T> type) {
@@ -33,18 +35,24 @@ public class ContextConfig {
     }
 
 
-    private void checkDependencies(Class<?> component, Stack<Class<?>> visiting) {
+    // visiting only holds the current path, and checked components are never re-entered,
+    // so the linear contains() stays bounded by graph depth rather than binding count
+    private void checkDependencies(Class<?> component, Stack<Class<?>> visiting, Set<Class<?>> checked) {
+        if (checked.contains(component)) {
+            return;
+        }
         for (Class<?> dependency : providers.get(component).getDependencies()) {
             if (!providers.containsKey(dependency)) {
                 throw new DependencyNotFoundException(component, dependency);
             }
             if (visiting.contains(dependency)) {
-                throw new CyclicDependenciesFoundException(visiting);
+                throw new CyclicDependencyException(visiting);
             }
             visiting.push(dependency);
-            checkDependencies(dependency, visiting);
+            checkDependencies(dependency, visiting, checked);
             visiting.pop();
         }
+        checked.add(component);
 
     }
 
@@ -7,36 +7,43 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
-import java.util.stream.Collectors;
 
 import static java.lang.reflect.Modifier.isAbstract;
 import static java.lang.reflect.Modifier.isFinal;
 import static java.util.Arrays.stream;
 import static java.util.stream.Stream.concat;
 
-class ComponentProvider<T> implements ContextConfig.ConstructionProvider<T> {
+class InjectionProvider<T> implements ContextConfig.ConstructionProvider<T> {
 
     private final Constructor<T> constructor;
 
-    private final List<Field> fields;
+    private final Field[] fields;
 
-    private final List<Method> methods;
+    private final Method[] methods;
 
-    public ComponentProvider(Class<T> implementation) {
+    private final List<Class<?>> dependencies;
+
+    public InjectionProvider(Class<T> implementation) {
         if (isAbstract(implementation.getModifiers())) {
             throw new IllegalComponentException();
         }
         this.constructor = getConstructor(implementation);
-        this.fields = getFields(implementation);
-        this.methods = getMethods(implementation);
+        this.fields = getFields(implementation).toArray(Field[]::new);
+        this.methods = getMethods(implementation).toArray(Method[]::new);
 
-        if (fields.stream().anyMatch(field -> isFinal(field.getModifiers()))) {
+        if (stream(fields).anyMatch(field -> isFinal(field.getModifiers()))) {
             throw new IllegalComponentException();
         }
 
-        if (methods.stream().anyMatch(method -> method.getTypeParameters().length != 0)) {
+        if (stream(methods).anyMatch(method -> method.getTypeParameters().length != 0)) {
             throw new IllegalComponentException();
         }
+
+        this.dependencies = List.of(concat(stream(methods).flatMap(method -> stream(method.getParameterTypes())),
+                concat(stream(fields).map(Field::getType),
+                        stream(constructor.getParameters()).map(Parameter::getType)))
+                .distinct()
+                .toArray(Class<?>[]::new));
     }
 
     @Override
@@ -62,12 +69,7 @@ class ComponentProvider<T> implements ContextConfig.ConstructionProvider<T> {
 
     @Override
     public List<Class<?>> getDependencies() {
-        return concat(methods.stream().flatMap(method -> stream(method.getParameterTypes())),
-                concat(fields.stream().map(Field::getType),
-                        stream(constructor.getParameters()).map(Parameter::getType)))
-
-                .collect(Collectors.toList());
-
+        return dependencies;
     }
 
 
@@ -0,0 +1,150 @@
+package com.cool.di;
+
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.lang.invoke.MethodHandles;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.*;
+import java.util.function.Supplier;
+
+import static java.util.Arrays.stream;
+
+@Tag("benchmark")
+public class BindingFootprintTest {
+
+    private static final int BINDINGS = 50_000;
+
+    private static final int ROUNDS = 5;
+
+    @Test
+    public void should_report_retained_heap_of_bindings() throws Exception {
+        List<Class<?>> keys = bindingKeys(BINDINGS);
+
+        long[] baselines = new long[ROUNDS];
+        long[] currents = new long[ROUNDS];
+        for (int round = 0; round < ROUNDS; round++) {
+            baselines[round] = retained(() -> {
+                Map<Class<?>, BaselineProvider<?>> providers = new HashMap<>();
+                for (int i = 0; i < keys.size(); i++) {
+                    providers.put(keys.get(i), new BaselineProvider<>(implementation(i)));
+                }
+                return providers;
+            });
+            currents[round] = retained(() -> {
+                ContextConfig config = new ContextConfig();
+                for (int i = 0; i < keys.size(); i++) {
+                    bind(config, keys.get(i), implementation(i));
+                }
+                return config;
+            });
+        }
+        long baseline = median(baselines);
+        long current = median(currents);
+
+        System.out.printf("bindings=%d baseline=%d bytes (%.1f/binding) current=%d bytes (%.1f/binding) reduction=%.1f%%%n",
+                BINDINGS, baseline, (double) baseline / BINDINGS, current, (double) current / BINDINGS,
+                100.0 * (baseline - current) / baseline);
+    }
+
+    private static long median(long[] samples) {
+        long[] sorted = samples.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+
+    private static <T> void bind(ContextConfig config, Class<T> key, Class<?> implementation) {
+        config.bind(key, (Class<T>) implementation);
+    }
+
+    private static Class<?> implementation(int index) {
+        return index % 2 == 0 ? FootprintComponent.class : FootprintLeaf.class;
+    }
+
+    private static List<Class<?>> bindingKeys(int count) throws Exception {
+        byte[] bytes;
+        try (InputStream input = BindingKey.class.getResourceAsStream("BindingKey.class")) {
+            bytes = input.readAllBytes();
+        }
+        MethodHandles.Lookup lookup = MethodHandles.lookup();
+        List<Class<?>> keys = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            keys.add(lookup.defineHiddenClass(bytes, false).lookupClass());
+        }
+        return keys;
+    }
+
+    private static long retained(Supplier<Object> build) throws InterruptedException {
+        long before = usedHeap();
+        Object retained = build.get();
+        long after = usedHeap();
+        Reference.reachabilityFence(retained);
+        return after - before;
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        for (int i = 0; i < 3; i++) {
+            System.gc();
+            Thread.sleep(100);
+        }
+        return ManagementFactory.getMemoryMXBean().getHeapMemoryUsage().getUsed();
+    }
+
+    // layout of the provider before dependencies were cached: lists of fields and methods, no dependency list
+    static class BaselineProvider<T> {
+
+        private final Constructor<T> constructor;
+
+        private final List<Field> fields = new ArrayList<>();
+
+        private final List<Method> methods = new ArrayList<>();
+
+        BaselineProvider(Class<T> implementation) {
+            Optional<Constructor<?>> injected = stream(implementation.getConstructors())
+                    .filter(constructor -> constructor.isAnnotationPresent(Inject.class))
+                    .findFirst();
+            try {
+                this.constructor = (Constructor<T>) (injected.isPresent() ? injected.get() : implementation.getDeclaredConstructor());
+            } catch (NoSuchMethodException e) {
+                throw new IllegalComponentException();
+            }
+            Class<?> current = implementation;
+            while (current != Object.class) {
+                fields.addAll(stream(current.getDeclaredFields())
+                        .filter(field -> field.isAnnotationPresent(Inject.class)).toList());
+                methods.addAll(stream(current.getDeclaredMethods())
+                        .filter(method -> method.isAnnotationPresent(Inject.class)).toList());
+                current = current.getSuperclass();
+            }
+            Collections.reverse(methods);
+        }
+    }
+}
+
+interface BindingKey {
+
+}
+
+class FootprintComponent {
+
+    @Inject
+    AnotherDependency anotherDependency;
+
+    @Inject
+    public FootprintComponent(Dependency dependency) {
+    }
+
+    @Inject
+    void install(Dependency dependency) {
+    }
+}
+
+class FootprintLeaf {
+
+}
@@ -0,0 +1,193 @@
+package com.cool.di;
+
+import jakarta.inject.Inject;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Nested;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.*;
+import java.util.function.IntFunction;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConcurrencyTest {
+
+    private static final int RESOLUTIONS_PER_THREAD = 2_000;
+
+    private final Shared shared = new Shared();
+
+    private ContextConfig config;
+
+    private Context context;
+
+    @BeforeEach
+    public void setup() {
+        config = new ContextConfig();
+        config.bind(Shared.class, shared);
+        config.bind(Root.class, RootWithInjectConstructor.class);
+        config.bind(Middle.class, MiddleWithInjectField.class);
+        config.bind(Leaf.class, LeafWithInjectMethod.class);
+        context = config.getContext();
+    }
+
+    @Nested
+    public class Resolution {
+
+        // each resolution builds its own graph on the calling thread, only the instance binding is shared
+        @Test
+        public void should_resolve_fully_injected_overlapping_graphs_from_all_threads() throws Exception {
+            resolveConcurrently(threads(), thread -> thread % 2 == 0
+                    ? () -> {
+                        Root root = context.get(Root.class).get();
+                        assertSame(shared, ((RootWithInjectConstructor) root).shared);
+                        assertInstalled(root.getMiddle().getLeaf());
+                    }
+                    : () -> assertInstalled(context.get(Middle.class).get().getLeaf()));
+        }
+
+        @Test
+        public void should_keep_resolving_validated_bindings_while_config_is_rebound() throws Exception {
+            Root replacement = () -> null;
+
+            resolveConcurrently(threads(), thread -> thread == 0
+                    ? () -> {
+                        config.bind(Root.class, replacement);
+                        config.bind(Root.class, RootWithInjectConstructor.class);
+                    }
+                    : () -> assertInstanceOf(RootWithInjectConstructor.class, context.get(Root.class).get()));
+        }
+
+        private void assertInstalled(Leaf leaf) {
+            LeafWithInjectMethod component = assertInstanceOf(LeafWithInjectMethod.class, leaf);
+            assertSame(shared, component.shared);
+            assertTrue(component.installed);
+        }
+    }
+
+    @Nested
+    @Tag("benchmark")
+    public class Throughput {
+
+        private static final int WARMUP_ROUNDS = 10;
+
+        private static final int MEASURED_ROUNDS = 10;
+
+        @Test
+        public void should_report_resolution_throughput_from_one_to_all_cores() throws Exception {
+            int cores = Runtime.getRuntime().availableProcessors();
+            int[] threadCounts = IntStream.concat(IntStream.of(1, 2, 4, 8, 16, 32, 64).filter(threads -> threads < cores),
+                    IntStream.of(cores)).toArray();
+
+            for (int threads : threadCounts) {
+                ExecutorService executor = Executors.newFixedThreadPool(threads);
+                try {
+                    for (int round = 0; round < WARMUP_ROUNDS; round++) {
+                        resolveConcurrently(executor, threads, thread -> () -> context.get(Root.class).get());
+                    }
+
+                    long start = System.nanoTime();
+                    for (int round = 0; round < MEASURED_ROUNDS; round++) {
+                        resolveConcurrently(executor, threads, thread -> () -> context.get(Root.class).get());
+                    }
+                    long elapsed = System.nanoTime() - start;
+
+                    long resolutions = (long) threads * RESOLUTIONS_PER_THREAD * MEASURED_ROUNDS;
+                    System.out.printf("threads=%d throughput=%.1f ops/ms%n", threads, resolutions * 1_000_000.0 / elapsed);
+                } finally {
+                    executor.shutdownNow();
+                }
+            }
+        }
+    }
+
+    private static int threads() {
+        return Math.max(4, Runtime.getRuntime().availableProcessors());
+    }
+
+    private static void resolveConcurrently(int threads, IntFunction<Runnable> resolution) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            resolveConcurrently(executor, threads, resolution);
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static void resolveConcurrently(ExecutorService executor, int threads, IntFunction<Runnable> resolution) throws Exception {
+        CyclicBarrier barrier = new CyclicBarrier(threads);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int i = 0; i < threads; i++) {
+            Runnable task = resolution.apply(i);
+            futures.add(executor.submit(() -> {
+                barrier.await();
+                for (int j = 0; j < RESOLUTIONS_PER_THREAD; j++) {
+                    task.run();
+                }
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get(30, TimeUnit.SECONDS);
+        }
+    }
+}
+
+class Shared {
+
+}
+
+interface Root {
+    Middle getMiddle();
+}
+
+interface Middle {
+    Leaf getLeaf();
+}
+
+interface Leaf {
+
+}
+
+class RootWithInjectConstructor implements Root {
+
+    final Middle middle;
+    final Shared shared;
+
+    @Inject
+    public RootWithInjectConstructor(Middle middle, Shared shared) {
+        this.middle = middle;
+        this.shared = shared;
+    }
+
+    @Override
+    public Middle getMiddle() {
+        return middle;
+    }
+}
+
+class MiddleWithInjectField implements Middle {
+
+    @Inject
+    Leaf leaf;
+
+    @Override
+    public Leaf getLeaf() {
+        return leaf;
+    }
+}
+
+class LeafWithInjectMethod implements Leaf {
+
+    Shared shared;
+    boolean installed;
+
+    @Inject
+    void install(Shared shared) {
+        this.shared = shared;
+        this.installed = true;
+    }
+}
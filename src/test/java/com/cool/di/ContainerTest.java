@@ -38,6 +38,15 @@ public class ContainerTest {
         assertTrue(config.getContext().get(Component.class).isEmpty());
     }
 
+    @Test
+    public void should_not_change_context_if_bound_after_context_created() {
+        Context context = config.getContext();
+        config.bind(Component.class, new Component() {
+        });
+
+        assertTrue(context.get(Component.class).isEmpty());
+    }
+
 
     @Nested
     public class DependencyCheck {
@@ -80,6 +89,35 @@ public class ContainerTest {
             assertTrue(components.contains(Dependency.class));
             assertTrue(components.contains(AnotherDependency.class));
         }
+
+        // shared dependency
+        @Test
+        public void should_check_shared_dependency_with_transitive_dependency() {
+            AnotherDependency anotherDependency = new AnotherDependency() {
+            };
+            config.bind(Component.class, ComponentWithInjectConstructor.class);
+            config.bind(AnotherComponent.class, AnotherComponentWithInjectConstructor.class);
+            config.bind(Dependency.class, DependencyDependOnAnotherDependency.class);
+            config.bind(AnotherDependency.class, anotherDependency);
+
+            Context context = config.getContext();
+
+            assertTrue(context.get(Component.class).isPresent());
+            assertTrue(context.get(AnotherComponent.class).isPresent());
+        }
+
+        @Test
+        public void should_throw_exception_if_dependency_of_shared_dependency_not_provided() {
+            config.bind(Component.class, ComponentWithInjectConstructor.class);
+            config.bind(AnotherComponent.class, AnotherComponentWithInjectConstructor.class);
+            config.bind(Dependency.class, DependencyDependOnAnotherDependency.class);
+
+            DependencyNotFoundException exception = assertThrows(DependencyNotFoundException.class,
+                    () -> config.getContext());
+
+            assertSame(Dependency.class, exception.getComponent());
+            assertSame(AnotherDependency.class, exception.getDependency());
+        }
     }
 
     @Nested
@@ -97,6 +135,10 @@ interface Component {
 
 }
 
+interface AnotherComponent {
+
+}
+
 interface Dependency {
 
 }
@@ -125,6 +167,16 @@ class ComponentWithInjectConstructor implements Component {
     }
 }
 
+class AnotherComponentWithInjectConstructor implements AnotherComponent {
+
+    private Dependency dependency;
+
+    @Inject
+    public AnotherComponentWithInjectConstructor(Dependency dependency) {
+        this.dependency = dependency;
+    }
+}
+
 class DependencyDependOnComponent implements Dependency {
 
     private Component component;
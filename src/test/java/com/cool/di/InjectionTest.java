@@ -132,6 +132,21 @@ public class InjectionTest {
                 InjectionProvider<ComponentWithFieldInjection> provider = new InjectionProvider<>(ComponentWithFieldInjection.class);
                 assertArrayEquals(new Class<?>[]{Dependency.class}, provider.getDependencies().toArray(Class<?>[]::new));
             }
+
+            static class ConstructorAndFieldWithSameDependency {
+                @Inject
+                Dependency dependency;
+
+                @Inject
+                public ConstructorAndFieldWithSameDependency(Dependency dependency) {
+                }
+            }
+
+            @Test
+            public void should_include_dependency_only_once_if_injected_via_constructor_and_field() {
+                InjectionProvider<ConstructorAndFieldWithSameDependency> provider = new InjectionProvider<>(ConstructorAndFieldWithSameDependency.class);
+                assertArrayEquals(new Class<?>[]{Dependency.class}, provider.getDependencies().toArray(Class<?>[]::new));
+            }
         }
 
         @Nested